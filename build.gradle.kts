@@ -3,6 +3,7 @@ plugins {
     id("io.spring.dependency-management") version "1.1.5"
     id("java")
     id("jacoco")
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.kestrel.veritafi"
@@ -40,6 +41,7 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-security")
     implementation("org.springframework.boot:spring-boot-starter-oauth2-resource-server")
     implementation("org.springframework.boot:spring-boot-starter-actuator")
+    implementation("io.micrometer:micrometer-registry-prometheus")
     implementation("org.springframework.boot:spring-boot-starter-data-redis")
     implementation("org.springframework.boot:spring-boot-devtools")
     
@@ -49,6 +51,12 @@ dependencies {
     // Jackson
     implementation("com.fasterxml.jackson.datatype:jackson-datatype-jsr310")
     implementation("com.fasterxml.jackson.module:jackson-module-jsonSchema:2.15.3")
+    // Binary response formats (Accept: application/x-jackson-smile, application/cbor)
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor")
+    
+    // zstd response compression (Accept-Encoding: zstd)
+    implementation("com.github.luben:zstd-jni:1.5.6-3")
     
     // Caching
     implementation("com.github.ben-manes.caffeine:caffeine:3.1.8")
@@ -72,6 +80,9 @@ dependencies {
     testImplementation("org.mybatis.spring.boot:mybatis-spring-boot-starter-test:3.0.3")
     testImplementation("org.projectlombok:lombok")
     testImplementation("com.h2database:h2:2.2.224")
+
+    // Benchmarks (src/jmh)
+    jmh("com.h2database:h2:2.2.224")
     
     // SQL Server JDBC driver
     runtimeOnly("com.microsoft.sqlserver:mssql-jdbc:12.6.1.jre17")
@@ -119,9 +130,62 @@ tasks.jacocoTestCoverageVerification {
 }
 
 tasks.test {
+    useJUnitPlatform {
+        excludeTags("benchmark")
+    }
     finalizedBy(tasks.jacocoTestReport)
 }
 
+// H2 query-plan benchmarks (tagged "benchmark"); they seed a large table, so they are not part of check
+tasks.register<Test>("benchmarkTest") {
+    description = "Runs the H2 query-plan benchmarks."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+    testLogging {
+        showStandardStreams = true
+    }
+}
+
+// JMH micro-benchmarks in src/jmh/java: ./gradlew jmh (pass -Pjmh.includes=<regex> to run a subset)
+val jmhResults = layout.buildDirectory.file("results/jmh/results.json")
+val jmhBaselineFile = layout.projectDirectory.file("src/jmh/baseline.json")
+
+jmh {
+    jmhVersion.set("1.37")
+    (findProperty("jmh.includes") as String?)?.let { includes.set(listOf(it)) }
+    // gc adds gc.alloc.rate.norm (bytes allocated per operation) to every result
+    profilers.set(listOf("gc"))
+    resultFormat.set("JSON")
+    resultsFile.set(jmhResults)
+    jvmArgsAppend.add("-Dvds.schema=${file("docs/sql/comprehensive_schema.sql")}")
+}
+
+// Compares the last jmh run with src/jmh/baseline.json and fails on score or allocation regressions.
+// Tolerances: -Pjmh.scoreTolerance=0.10 -Pjmh.allocTolerance=0.05
+tasks.register<JavaExec>("jmhCompare") {
+    description = "Compares the last JMH results with the stored baseline."
+    group = "verification"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("com.vendor.vendordataservice.benchmark.JmhBaselineCheck")
+    args(jmhResults.get().asFile, jmhBaselineFile.asFile,
+        findProperty("jmh.scoreTolerance") ?: "0.10", findProperty("jmh.allocTolerance") ?: "0.05")
+    mustRunAfter("jmh")
+}
+
+// Records the last jmh run as the baseline; run on the benchmark agent and commit src/jmh/baseline.json
+tasks.register<Copy>("jmhBaseline") {
+    description = "Stores the last JMH results as the baseline."
+    group = "verification"
+    from(jmhResults)
+    into(jmhBaselineFile.asFile.parentFile)
+    rename { "baseline.json" }
+    mustRunAfter("jmh")
+}
+
 tasks.check {
     dependsOn(tasks.jacocoTestCoverageVerification)
 }
@@ -27,6 +27,8 @@ dependencies {
     // JSON Processing
     implementation("com.fasterxml.jackson.core:jackson-databind:2.15.3")
     implementation("com.fasterxml.jackson.datatype:jackson-datatype-jsr310:2.15.3")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile:2.15.3")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor:2.15.3")
     
     // Lombok
     compileOnly("org.projectlombok:lombok:1.18.30")
@@ -1,5 +1,6 @@
-import axios, { AxiosInstance } from 'axios';
+import axios, { AxiosInstance, AxiosRequestConfig, AxiosResponse } from 'axios';
 import axiosRetry from 'axios-retry';
+import { decode as decodeCbor } from 'cbor-x';
 import { randomUUID } from 'crypto';
 import { OAuth2TokenManager } from './auth';
 import { ClientConfig, resolveConfig, ResolvedClientConfig } from './config';
@@ -27,18 +28,20 @@ export class VendorDataClient {
     const token = await this.tokenManager.getAccessToken();
 
     try {
-      const response = await this.httpClient.post<SearchResponse>(
+      const response = await this.httpClient.post(
         '/api/v1/search',
         this.transformRequest(request),
         {
+          ...this.responseOptions(),
           headers: {
             Authorization: `Bearer ${token}`,
             'X-Request-Id': randomUUID(),
+            Accept: this.acceptHeader(),
           },
         }
       );
 
-      return this.transformResponse(response.data);
+      return this.transformResponse(this.decodeBody(response));
     } catch (error) {
       throw this.handleError(error);
     }
@@ -51,18 +54,24 @@ export class VendorDataClient {
     const token = await this.tokenManager.getAccessToken();
 
     try {
-      const response = await this.httpClient.get<SearchResponse>(
+      const params = this.transformRequest(request);
+      // The service reads a comma-separated list from a single query parameter
+      if (params.fields) params.fields = params.fields.join(',');
+
+      const response = await this.httpClient.get(
         '/api/v1/search',
         {
-          params: this.transformRequest(request),
+          ...this.responseOptions(),
+          params,
           headers: {
             Authorization: `Bearer ${token}`,
             'X-Request-Id': randomUUID(),
+            Accept: this.acceptHeader(),
           },
         }
       );
 
-      return this.transformResponse(response.data);
+      return this.transformResponse(this.decodeBody(response));
     } catch (error) {
       throw this.handleError(error);
     }
@@ -73,7 +82,7 @@ export class VendorDataClient {
    */
   async healthCheck(): Promise<boolean> {
     try {
-      const response = await this.httpClient.get('/actuator/health');
+      const response = await this.httpClient.get('/readyz');
       return response.status === 200;
     } catch (error) {
       if (this.config.debug) {
@@ -170,12 +179,49 @@ export class VendorDataClient {
       transformed.include_events = request.includeEvents;
     if (request.includeDefendants !== undefined)
       transformed.include_defendants = request.includeDefendants;
+    if (request.fields?.length) transformed.fields = request.fields;
     if (request.page) transformed.page = request.page;
     if (request.pageSize) transformed.page_size = request.pageSize;
 
     return transformed;
   }
 
+  private acceptHeader(): string {
+    return this.config.responseFormat === 'cbor'
+      ? 'application/cbor'
+      : 'application/json';
+  }
+
+  /**
+   * Binary responses need the raw bytes; decodeBody picks the decoder by Content-Type
+   */
+  private responseOptions(): AxiosRequestConfig {
+    return this.config.responseFormat === 'cbor'
+      ? { responseType: 'arraybuffer' }
+      : {};
+  }
+
+  /**
+   * Decodes a CBOR or raw JSON body; errors raised before content negotiation are always JSON
+   */
+  private decodeBody(response: AxiosResponse): any {
+    const data = response.data;
+    if (!(data instanceof ArrayBuffer) && !Buffer.isBuffer(data)) {
+      return data;
+    }
+    const bytes = Buffer.from(data as ArrayBuffer);
+    const contentType = String(response.headers['content-type'] ?? '');
+    if (contentType.startsWith('application/cbor')) {
+      return decodeCbor(bytes);
+    }
+    const text = bytes.toString('utf8');
+    try {
+      return JSON.parse(text);
+    } catch {
+      return text;
+    }
+  }
+
   /**
    * Transforms response from snake_case to camelCase
    */
@@ -217,7 +263,9 @@ export class VendorDataClient {
       }
 
       const statusCode = error.response?.status;
-      const responseBody = error.response?.data;
+      const responseBody = error.response
+        ? this.decodeBody(error.response)
+        : undefined;
 
       return new ApiError(
         error.message,
@@ -49,6 +49,12 @@ export interface ClientConfig {
    */
   tokenRefreshBuffer?: number;
 
+  /**
+   * Encoding requested for search responses (default: "json")
+   * CBOR is smaller and faster to decode for large pages
+   */
+  responseFormat?: 'json' | 'cbor';
+
   /**
    * Enable debug logging (default: false)
    */
@@ -71,6 +77,7 @@ export function resolveConfig(config: ClientConfig): ResolvedClientConfig {
     maxRetries: config.maxRetries ?? 3,
     retryDelay: config.retryDelay ?? 1000,
     tokenRefreshBuffer: config.tokenRefreshBuffer ?? 60,
+    responseFormat: config.responseFormat ?? 'json',
     debug: config.debug ?? false,
   };
 }
@@ -18,6 +18,8 @@ export interface SearchRequest {
   includeDockets?: boolean;
   includeEvents?: boolean;
   includeDefendants?: boolean;
+  /** Fields to return, e.g. 'case_number' or 'charges.offense_date'; all fields when omitted */
+  fields?: string[];
   page?: number;
   pageSize?: number;
 }
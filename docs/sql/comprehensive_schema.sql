@@ -39,6 +39,14 @@ CREATE TABLE dbo.cases (
     date_of_death DATE NULL,
     country NVARCHAR(2) NULL,
     ssn NVARCHAR(11) NULL,
+
+    -- Normalized search keys, persisted so name and SSN filters can seek an index
+    -- instead of applying UPPER()/RIGHT() to every row (see match_mode in CaseMapper.xml)
+    last_name_upper AS UPPER(LTRIM(RTRIM(last_name))) PERSISTED,
+    first_name_upper AS UPPER(LTRIM(RTRIM(first_name))) PERSISTED,
+    last_name_soundex AS SOUNDEX(last_name) PERSISTED,
+    first_name_soundex AS SOUNDEX(first_name) PERSISTED,
+    ssn_last4 AS RIGHT(ssn, 4) PERSISTED,
     
     -- Other fields
     clerk_case_number NVARCHAR(20) NULL,
@@ -177,9 +185,27 @@ CREATE TABLE dbo.court_events (
     CONSTRAINT FK_court_events_case FOREIGN KEY (case_id) REFERENCES dbo.cases(case_id) ON DELETE CASCADE
 );
 
+-- Data version stamps (one row per table)
+-- Each data reload must bump the version of every table it touched, e.g.
+--   UPDATE dbo.table_versions SET version = version + 1, updated_at = GETDATE() WHERE table_name = 'charges';
+-- Cached search results are keyed on these versions, so a bump retires every cached page built from that table.
+CREATE TABLE dbo.table_versions (
+    table_name NVARCHAR(64) NOT NULL PRIMARY KEY,
+    version BIGINT NOT NULL DEFAULT 0,
+    updated_at DATETIME2 DEFAULT GETDATE()
+);
+
+INSERT INTO dbo.table_versions (table_name, version) VALUES
+    ('cases', 0), ('defendants', 0), ('charges', 0), ('sentences', 0), ('dockets', 0), ('court_events', 0);
+
 -- Indexes for search performance
 CREATE INDEX IX_cases_name_dob ON dbo.cases (last_name, first_name, date_of_birth);
 CREATE INDEX IX_cases_ssn ON dbo.cases (ssn) WHERE ssn IS NOT NULL;
+CREATE INDEX IX_cases_name_upper ON dbo.cases (last_name_upper, first_name_upper, date_of_birth);
+CREATE INDEX IX_cases_name_soundex ON dbo.cases (last_name_soundex, first_name_soundex);
+CREATE INDEX IX_cases_ssn_last4 ON dbo.cases (ssn_last4, date_of_birth);
+-- Existing databases: add the search-key columns with ALTER TABLE dbo.cases ADD <definitions above>,
+-- then create the three indexes above (sessions need SET ARITHABORT ON and QUOTED_IDENTIFIER ON)
 CREATE INDEX IX_cases_filed_date ON dbo.cases (filed_date);
 CREATE INDEX IX_cases_county ON dbo.cases (county_id);
 CREATE INDEX IX_cases_case_type ON dbo.cases (case_type);
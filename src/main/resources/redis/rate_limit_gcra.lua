@@ -0,0 +1,27 @@
+-- Shared GCRA token bucket; see RateLimiterService. The bucket is its theoretical arrival time (TAT)
+-- in microseconds of Redis server time, so replicas with skewed clocks still agree.
+-- KEYS[1]  bucket key
+-- ARGV[1]  emission interval (window / limit), microseconds
+-- ARGV[2]  window, microseconds
+-- ARGV[3]  requests to take at once (at most the limit)
+-- Returns {allowed (1/0), backlog, wait}: time until the bucket is full again and until the next
+-- request is allowed, both in microseconds.
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+local interval = tonumber(ARGV[1])
+local window = tonumber(ARGV[2])
+local permits = tonumber(ARGV[3])
+
+local tat = tonumber(redis.call('GET', KEYS[1]))
+if tat == nil or tat < now then
+  tat = now
+end
+
+local next_tat = tat + interval * permits
+local wait = next_tat - window - now
+if wait > 0 then
+  return {0, tat - now, wait}
+end
+
+redis.call('SET', KEYS[1], string.format('%d', next_tat), 'PX', math.ceil((next_tat - now) / 1000))
+return {1, next_tat - now, 0}
@@ -0,0 +1,7 @@
+-- Remove seeded rows for tests that run outside a rolled-back test transaction
+DELETE FROM sentences;
+DELETE FROM charges;
+DELETE FROM dockets;
+DELETE FROM court_events;
+DELETE FROM defendants;
+DELETE FROM cases;
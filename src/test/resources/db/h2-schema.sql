@@ -0,0 +1,158 @@
+-- H2 translation of docs/sql/comprehensive_schema.sql for mapper tests
+-- (no dbo schema, IDENTITY columns accept explicit keys, NVARCHAR(MAX) -> CLOB)
+
+CREATE TABLE IF NOT EXISTS cases (
+    case_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    case_number VARCHAR(50) NOT NULL,
+    ucn VARCHAR(20) NULL,
+    county_id INT NULL,
+    court_type VARCHAR(50) NULL,
+    severity_code VARCHAR(50) NULL,
+    case_type VARCHAR(40) NULL,
+    case_status_code INT NULL,
+    judge_code VARCHAR(30) NULL,
+    judge_code_at_disposition VARCHAR(30) NULL,
+    outstanding_warrant BOOLEAN NULL,
+    contested BOOLEAN NULL,
+    jury_trial BOOLEAN NULL,
+    filed_date DATE NULL,
+    clerk_file_date DATE NULL,
+    reopen_date DATE NULL,
+    last_docket_date DATE NULL,
+    disposition_date DATE NULL,
+    case_system_entry_date DATE NULL,
+    last_name VARCHAR(30) NULL,
+    first_name VARCHAR(20) NULL,
+    middle_name VARCHAR(20) NULL,
+    suffix_code VARCHAR(1) NULL,
+    name_type_code VARCHAR(1) NULL,
+    date_of_birth DATE NULL,
+    sex_code VARCHAR(1) NULL,
+    race_code VARCHAR(1) NULL,
+    place_of_birth VARCHAR(60) NULL,
+    date_of_death DATE NULL,
+    country VARCHAR(2) NULL,
+    ssn VARCHAR(11) NULL,
+    last_name_upper VARCHAR(30) GENERATED ALWAYS AS (UPPER(TRIM(last_name))),
+    first_name_upper VARCHAR(20) GENERATED ALWAYS AS (UPPER(TRIM(first_name))),
+    last_name_soundex VARCHAR(4) GENERATED ALWAYS AS (SOUNDEX(last_name)),
+    first_name_soundex VARCHAR(4) GENERATED ALWAYS AS (SOUNDEX(first_name)),
+    ssn_last4 VARCHAR(4) GENERATED ALWAYS AS (RIGHT(ssn, 4)),
+    clerk_case_number VARCHAR(20) NULL,
+    reopen_reason VARCHAR(1) NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT UQ_case_number UNIQUE (case_number)
+);
+
+CREATE TABLE IF NOT EXISTS defendants (
+    defendant_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    case_id BIGINT NOT NULL,
+    party_id VARCHAR(50) NULL,
+    last_name VARCHAR(50) NULL,
+    first_name VARCHAR(50) NULL,
+    middle_name VARCHAR(50) NULL,
+    dob DATE NULL,
+    sex VARCHAR(1) NULL,
+    race VARCHAR(4) NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT FK_defendants_case FOREIGN KEY (case_id) REFERENCES cases(case_id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS charges (
+    charge_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    case_id BIGINT NOT NULL,
+    charge_sequence_number VARCHAR(15) NULL,
+    initial_filing_date DATE NULL,
+    offense_date DATE NULL,
+    prosecutor_decision_date DATE NULL,
+    court_decision_date DATE NULL,
+    d6_date DATE NULL,
+    citation_issued_date DATE NULL,
+    initial_fl_statute_number VARCHAR(14) NULL,
+    initial_fl_statute_description VARCHAR(60) NULL,
+    initial_charge_level_code VARCHAR(1) NULL,
+    initial_charge_degree_code VARCHAR(1) NULL,
+    prosecution_action_code VARCHAR(1) NULL,
+    prosecutor_fl_statute_number VARCHAR(14) NULL,
+    prosecutor_fl_statute_description VARCHAR(60) NULL,
+    prosecutor_charge_level_code VARCHAR(1) NULL,
+    prosecutor_charge_degree_code VARCHAR(1) NULL,
+    prosecutor_charge_count INT NULL,
+    court_fl_statute_number VARCHAR(14) NULL,
+    court_fl_statute_description VARCHAR(60) NULL,
+    court_action_code VARCHAR(1) NULL,
+    court_charge_level_code VARCHAR(1) NULL,
+    court_charge_degree_code VARCHAR(1) NULL,
+    trial_type_code INT NULL,
+    traffic_disposition_code VARCHAR(6) NULL,
+    citation_number VARCHAR(20) NULL,
+    defendant_final_plea_code INT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT FK_charges_case FOREIGN KEY (case_id) REFERENCES cases(case_id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS sentences (
+    sentence_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    charge_id BIGINT NOT NULL,
+    sentence_sequence_number VARCHAR(15) NULL,
+    sentence_status_code INT NULL,
+    sentence_imposed_date DATE NULL,
+    sentence_effective_date DATE NULL,
+    sentence_code INT NULL,
+    length_of_sentence_confinement VARCHAR(1) NULL,
+    confinement_type_code VARCHAR(1) NULL,
+    judge_code_at_sentence VARCHAR(30) NULL,
+    division VARCHAR(30) NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT FK_sentences_charge FOREIGN KEY (charge_id) REFERENCES charges(charge_id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS dockets (
+    docket_id_pk BIGINT AUTO_INCREMENT PRIMARY KEY,
+    case_id BIGINT NOT NULL,
+    docket_id VARCHAR(14) NULL,
+    docket_action_date DATE NULL,
+    docket_code VARCHAR(20) NULL,
+    standard_docket_code INT NULL,
+    docket_text CLOB NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT FK_dockets_case FOREIGN KEY (case_id) REFERENCES cases(case_id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS court_events (
+    event_id_pk BIGINT AUTO_INCREMENT PRIMARY KEY,
+    case_id BIGINT NOT NULL,
+    event_id VARCHAR(50) NULL,
+    court_appearance_date TIMESTAMP NULL,
+    court_appearance_time VARCHAR(50) NULL,
+    judge_code VARCHAR(30) NULL,
+    court_event_description VARCHAR(40) NULL,
+    standard_court_event_code INT NULL,
+    court_location VARCHAR(30) NULL,
+    court_room VARCHAR(6) NULL,
+    prosecutor VARCHAR(30) NULL,
+    defendant_attorney VARCHAR(30) NULL,
+    division VARCHAR(30) NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT FK_court_events_case FOREIGN KEY (case_id) REFERENCES cases(case_id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS table_versions (
+    table_name VARCHAR(64) NOT NULL PRIMARY KEY,
+    version BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS IX_cases_name_dob ON cases (last_name, first_name, date_of_birth);
+CREATE INDEX IF NOT EXISTS IX_cases_ssn ON cases (ssn);
+CREATE INDEX IF NOT EXISTS IX_cases_name_upper ON cases (last_name_upper, first_name_upper, date_of_birth);
+CREATE INDEX IF NOT EXISTS IX_cases_name_soundex ON cases (last_name_soundex, first_name_soundex);
+CREATE INDEX IF NOT EXISTS IX_cases_ssn_last4 ON cases (ssn_last4, date_of_birth);
+CREATE INDEX IF NOT EXISTS IX_cases_filed_date ON cases (filed_date);
+CREATE INDEX IF NOT EXISTS IX_cases_county ON cases (county_id);
+CREATE INDEX IF NOT EXISTS IX_defendants_case ON defendants (case_id);
+CREATE INDEX IF NOT EXISTS IX_charges_case ON charges (case_id);
+CREATE INDEX IF NOT EXISTS IX_sentences_charge ON sentences (charge_id);
+CREATE INDEX IF NOT EXISTS IX_dockets_case ON dockets (case_id);
+CREATE INDEX IF NOT EXISTS IX_court_events_case ON court_events (case_id);
@@ -0,0 +1,37 @@
+-- Three SMITH cases, each with two charges (one sentence each), one docket, one event and one defendant
+
+INSERT INTO cases (case_id, case_number, county_id, case_type, filed_date, last_name, first_name, date_of_birth, ssn) VALUES
+    (1001, '2020-CF-000001', 12, 'CF', DATE '2020-01-10', 'SMITH', 'JOHN', DATE '1980-01-15', '123-45-6789'),
+    (1002, '2021-CF-000002', 12, 'CF', DATE '2021-02-11', 'SMITH', 'JOHN', DATE '1980-01-15', '123-45-6789'),
+    (1003, '2022-MM-000003', 25, 'MM', DATE '2022-03-12', 'SMITH', 'JANE', DATE '1985-06-01', '987-65-4321');
+
+INSERT INTO charges (charge_id, case_id, charge_sequence_number, offense_date, initial_fl_statute_number, initial_fl_statute_description) VALUES
+    (2001, 1001, '001', DATE '2019-12-31', '812.014', 'THEFT'),
+    (2002, 1001, '002', DATE '2019-12-31', '810.02', 'BURGLARY'),
+    (2003, 1002, '001', DATE '2021-01-05', '893.13', 'POSSESSION'),
+    (2004, 1002, '002', DATE '2021-01-05', '843.02', 'RESISTING'),
+    (2005, 1003, '001', DATE '2022-02-20', '316.193', 'DUI'),
+    (2006, 1003, '002', DATE '2022-02-20', '322.34', 'DWLS');
+
+INSERT INTO sentences (charge_id, sentence_sequence_number, sentence_code, division) VALUES
+    (2001, '001', 10, 'FELONY'),
+    (2002, '001', 11, 'FELONY'),
+    (2003, '001', 12, 'FELONY'),
+    (2004, '001', 13, 'FELONY'),
+    (2005, '001', 14, 'COUNTY'),
+    (2006, '001', 15, 'COUNTY');
+
+INSERT INTO dockets (case_id, docket_id, docket_action_date, docket_code, docket_text) VALUES
+    (1001, 'D1', DATE '2020-01-11', 'ARR', 'ARRAIGNMENT'),
+    (1002, 'D2', DATE '2021-02-12', 'ARR', 'ARRAIGNMENT'),
+    (1003, 'D3', DATE '2022-03-13', 'ARR', 'ARRAIGNMENT');
+
+INSERT INTO court_events (case_id, event_id, court_appearance_date, court_event_description) VALUES
+    (1001, 'E1', TIMESTAMP '2020-02-01 09:00:00', 'PRETRIAL'),
+    (1002, 'E2', TIMESTAMP '2021-03-01 09:00:00', 'PRETRIAL'),
+    (1003, 'E3', TIMESTAMP '2022-04-01 09:00:00', 'PRETRIAL');
+
+INSERT INTO defendants (case_id, party_id, last_name, first_name, dob) VALUES
+    (1001, 'P1', 'SMITH', 'JOHN', DATE '1980-01-15'),
+    (1002, 'P2', 'SMITH', 'JOHN', DATE '1980-01-15'),
+    (1003, 'P3', 'SMITH', 'JANE', DATE '1985-06-01');